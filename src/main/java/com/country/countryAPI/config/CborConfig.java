@@ -0,0 +1,76 @@
+package com.country.countryAPI.config;
+
+import com.country.countryAPI.model.Country;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+@Configuration
+public class CborConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper mapper = builder
+                .factory(new CBORFactory())
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .featuresToDisable(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)
+                .mixIn(Country.class, CountryCborMixin.class)
+                .build();
+        return new MappingJackson2CborHttpMessageConverter(mapper);
+    }
+
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({"id", "name", "capital", "region", "population", "currencyCode", "alpha2Code",
+            "exchangeRate", "estimatedGdp", "flagUrl", "lastRefreshedAt"})
+    abstract static class CountryCborMixin {
+        @JsonSerialize(using = ExchangeRateSerializer.class)
+        private BigDecimal exchangeRate;
+
+        @JsonSerialize(using = GdpSerializer.class)
+        private BigDecimal estimatedGdp;
+    }
+
+    abstract static class FixedPointSerializer extends StdSerializer<BigDecimal> {
+        private final int scale;
+
+        FixedPointSerializer(int scale) {
+            super(BigDecimal.class);
+            this.scale = scale;
+        }
+        @Override
+        public void serialize(BigDecimal value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            BigDecimal scaled = value.movePointRight(scale).setScale(0, RoundingMode.HALF_UP);
+            if (scaled.unscaledValue().bitLength() < Long.SIZE) {
+                gen.writeNumber(scaled.longValue());
+            } else {
+                gen.writeNumber(value);
+            }
+        }
+    }
+
+    static class ExchangeRateSerializer extends FixedPointSerializer {
+        ExchangeRateSerializer() {
+            super(4);
+        }
+    }
+
+    static class GdpSerializer extends FixedPointSerializer {
+        GdpSerializer() {
+            super(2);
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.country.countryAPI.controller;
 
 import com.country.countryAPI.dto.ApiErrorResponse;
+import com.country.countryAPI.dto.BatchDeleteResponse;
+import com.country.countryAPI.dto.RefreshJobResponse;
 import com.country.countryAPI.dto.StatusResponse;
+import com.country.countryAPI.exception.RefreshThrottledException;
 import com.country.countryAPI.model.Country;
+import com.country.countryAPI.model.RefreshJob;
 import com.country.countryAPI.service.CountryService;
+import com.country.countryAPI.service.RefreshJobService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
@@ -16,11 +21,14 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.io.FileNotFoundException;
+import java.net.URI;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/countries")
@@ -29,13 +37,39 @@ import java.util.Map;
 public class CountryController {
 
     private final CountryService countryService;
+    private final RefreshJobService refreshJobService;
 
     @PostMapping("/refresh")
-    public ResponseEntity<StatusResponse> refreshData() {
+    public CompletableFuture<ResponseEntity<?>> refreshData() {
         log.info("CONTROLLER: Received POST request for refresh.");
-        StatusResponse status = countryService.refreshCountryData();
-        log.info("CONTROLLER: Refresh service call returned successfully.");
-        return ResponseEntity.ok(status);
+        RefreshJobService.Submission submission = refreshJobService.submit(true);
+        return submission.completion().thenApply(this::toRefreshResponse);
+    }
+    @PostMapping(value = "/refresh", params = "async=true")
+    public ResponseEntity<RefreshJobResponse> refreshDataAsync() {
+        log.info("CONTROLLER: Received async POST request for refresh.");
+        RefreshJob job = refreshJobService.submit(true).job();
+        return ResponseEntity.accepted()
+                .location(refreshJobLocation(job))
+                .body(refreshJobService.toResponse(job));
+    }
+    @GetMapping("/refresh/{id}")
+    public ResponseEntity<RefreshJobResponse> getRefreshJob(@PathVariable String id) {
+        RefreshJobResponse job = refreshJobService.getJob(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Refresh not found: " + id));
+        return ResponseEntity.ok(job);
+    }
+    private ResponseEntity<?> toRefreshResponse(RefreshJob job) {
+        RefreshJobResponse response = refreshJobService.toResponse(job);
+        if (job.getState() == RefreshJob.State.SUCCEEDED) {
+            return ResponseEntity.ok(response.getStatus());
+        }
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .location(refreshJobLocation(job))
+                .body(response);
+    }
+    private URI refreshJobLocation(RefreshJob job) {
+        return URI.create("/countries/refresh/" + job.getId());
     }
     @GetMapping
     public ResponseEntity<List<Country>> getAllCountries(
@@ -62,6 +96,29 @@ public class CountryController {
         Country country = countryService.getCountryByName(name);
         return ResponseEntity.ok(country);
     }
+    @PostMapping("/batch-get")
+    public ResponseEntity<List<Country>> getCountriesBatch(@RequestBody List<String> identifiers) {
+        List<Country> countries = countryService.getCountriesByNamesOrCodes(identifiers);
+        return ResponseEntity.ok(countries);
+    }
+    @PostMapping("/batch-delete")
+    public ResponseEntity<BatchDeleteResponse> deleteCountriesBatch(@RequestBody List<String> names) {
+        BatchDeleteResponse response = countryService.deleteCountriesByName(names);
+        return ResponseEntity.ok(response);
+    }
+    @GetMapping("/search")
+    public ResponseEntity<List<Country>> searchCountries(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        List<Country> countries = countryService.searchCountries(query, limit);
+        return ResponseEntity.ok(countries);
+    }
+    @GetMapping("/code/{alpha2}")
+    public ResponseEntity<Country> getCountryByAlpha2Code(@PathVariable @NotNull String alpha2) {
+        Country country = countryService.getCountryByAlpha2Code(alpha2);
+        return ResponseEntity.ok(country);
+    }
     @DeleteMapping("/{name}")
     public ResponseEntity<Void> deleteCountryByName(@PathVariable @NotNull String name) {
         countryService.deleteCountryByName(name);
@@ -110,6 +167,14 @@ public class CountryController {
                 .path(request.getRequestURI())
                 .build();
     }
+    @ExceptionHandler(RefreshThrottledException.class)
+    public ResponseEntity<StatusResponse> handleRefreshThrottled(RefreshThrottledException ex) {
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfterMillis() + 999) / 1000);
+        log.warn("Refresh throttled; retry after {} s.", retryAfterSeconds);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(countryService.getStatus());
+    }
     @ResponseStatus(HttpStatus.NOT_FOUND)
     @ExceptionHandler(FileNotFoundException.class)
     public ApiErrorResponse handleFileNotFound(FileNotFoundException ex, HttpServletRequest request) {
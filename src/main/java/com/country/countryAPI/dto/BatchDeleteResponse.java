@@ -0,0 +1,13 @@
+package com.country.countryAPI.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchDeleteResponse {
+    private int requested;
+    private int deleted;
+}
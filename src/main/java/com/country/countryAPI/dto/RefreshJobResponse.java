@@ -0,0 +1,19 @@
+package com.country.countryAPI.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshJobResponse {
+    private String id;
+    private String state;
+    private Instant submittedAt;
+    private Instant completedAt;
+    private StatusResponse status;
+    private String error;
+}
@@ -1,15 +1,11 @@
 package com.country.countryAPI.dto;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
 
 import java.time.Instant;
 
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
+@Value
 public class StatusResponse {
-    private long totalCountries;
-    private Instant lastRefreshedAt;
+    long totalCountries;
+    Instant lastRefreshedAt;
 }
@@ -0,0 +1,13 @@
+package com.country.countryAPI.exception;
+
+public class RefreshThrottledException extends RuntimeException {
+    private final long retryAfterMillis;
+
+    public RefreshThrottledException(long retryAfterMillis) {
+        super("Refresh rate limit exceeded; retry after " + retryAfterMillis + " ms");
+        this.retryAfterMillis = retryAfterMillis;
+    }
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
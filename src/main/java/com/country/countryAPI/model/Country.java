@@ -1,5 +1,6 @@
 package com.country.countryAPI.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -9,9 +10,12 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.Locale;
 
 @Entity
-@Table(name = "countries")
+@Table(name = "countries", indexes = {
+        @Index(name = "uk_countries_alpha2_code", columnList = "alpha2Code", unique = true)
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -29,6 +33,10 @@ public class Country {
     @Column(unique = true)
     private String name;
 
+    @JsonIgnore
+    @Column(name = "name_key", unique = true)
+    private String nameKey;
+
     private String capital;
     private String region;
 
@@ -48,4 +56,17 @@ public class Country {
 
     @Column(name = "last_refreshed_at")
     private Instant lastRefreshedAt;
+
+    @PrePersist
+    @PreUpdate
+    void normalizeKeys() {
+        nameKey = normalizeName(name);
+        alpha2Code = normalizeAlpha2Code(alpha2Code);
+    }
+    public static String normalizeName(String name) {
+        return name == null ? null : name.trim().toLowerCase(Locale.ROOT);
+    }
+    public static String normalizeAlpha2Code(String alpha2Code) {
+        return alpha2Code == null ? null : alpha2Code.trim().toUpperCase(Locale.ROOT);
+    }
 }
@@ -0,0 +1,45 @@
+package com.country.countryAPI.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "refresh_job", indexes = {
+        @Index(name = "idx_refresh_job_state_submitted", columnList = "state, submitted_at")
+})
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshJob {
+    public enum State { PENDING, RUNNING, SUCCEEDED, SKIPPED, FAILED }
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private State state;
+
+    @Column(name = "node_id")
+    private String nodeId;
+
+    @Column(name = "submitted_at", nullable = false)
+    private Instant submittedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    @Column(name = "total_countries")
+    private Long totalCountries;
+
+    @Column(name = "last_refreshed_at")
+    private Instant lastRefreshedAt;
+
+    @Column(length = 1000)
+    private String error;
+}
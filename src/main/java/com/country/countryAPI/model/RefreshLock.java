@@ -0,0 +1,61 @@
+package com.country.countryAPI.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "refresh_lock")
+@DynamicUpdate
+@Data
+@NoArgsConstructor
+public class RefreshLock implements Persistable<String> {
+    public static final String REFRESH_LOCK_NAME = "country-refresh";
+
+    @Id
+    @Column(name = "lock_name")
+    private String name;
+
+    @Column(name = "owner")
+    private String owner;
+
+    @Column(name = "locked_until")
+    private Instant lockedUntil;
+
+    @Column(name = "last_started_at")
+    private Instant lastStartedAt;
+
+    @Column(name = "backoff_ms")
+    private Long backoffMillis;
+
+    @Column(name = "tokens")
+    private Double tokens;
+
+    @Column(name = "tokens_updated_at")
+    private Instant tokensUpdatedAt;
+
+    // Lets a concurrent seed of the row fail on the primary key rather than merge over it.
+    @Transient
+    private boolean newRow = true;
+
+    public RefreshLock(String name) {
+        this.name = name;
+    }
+    @Override
+    public String getId() {
+        return name;
+    }
+    @Override
+    public boolean isNew() {
+        return newRow;
+    }
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        newRow = false;
+    }
+}
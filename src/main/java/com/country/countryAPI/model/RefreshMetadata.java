@@ -0,0 +1,48 @@
+package com.country.countryAPI.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "refresh_metadata")
+@Data
+@NoArgsConstructor
+public class RefreshMetadata implements Persistable<Long> {
+    public static final Long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(name = "total_countries", nullable = false)
+    private long totalCountries;
+
+    @Column(name = "last_refreshed_at")
+    private Instant lastRefreshedAt;
+
+    @Column(name = "refresh_version", nullable = false)
+    private long refreshVersion;
+
+    // The id is always assigned, so save() must insert a new row instead of merging over one another node wrote.
+    @Transient
+    private boolean newRow = true;
+
+    public RefreshMetadata(Long id, long totalCountries, Instant lastRefreshedAt, long refreshVersion) {
+        this.id = id;
+        this.totalCountries = totalCountries;
+        this.lastRefreshedAt = lastRefreshedAt;
+        this.refreshVersion = refreshVersion;
+    }
+    @Override
+    public boolean isNew() {
+        return newRow;
+    }
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        newRow = false;
+    }
+}
@@ -3,14 +3,31 @@ package com.country.countryAPI.repo;
 import com.country.countryAPI.model.Country;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface CountryRepository extends JpaRepository<Country,Long>, JpaSpecificationExecutor<Country> {
-    Optional<Country> findByNameIgnoreCase(String name);
+    Optional<Country> findByNameKey(String nameKey);
+    Optional<Country> findByAlpha2Code(String alpha2Code);
+    List<Country> findByNameKeyIsNull();
+
+    @Query("SELECT c FROM Country c WHERE c.nameKey IN :nameKeys OR c.alpha2Code IN :alpha2Codes")
+    List<Country> findByNameKeyInOrAlpha2CodeIn(@Param("nameKeys") Collection<String> nameKeys,
+                                                @Param("alpha2Codes") Collection<String> alpha2Codes);
+
+    @Modifying
+    @Query("DELETE FROM Country c WHERE c.nameKey = :nameKey")
+    int deleteByNameKey(@Param("nameKey") String nameKey);
+
+    @Modifying
+    @Query("DELETE FROM Country c WHERE c.nameKey IN :nameKeys")
+    int deleteByNameKeyIn(@Param("nameKeys") Collection<String> nameKeys);
 
-    void deleteByNameIgnoreCase(String name);
     Optional<Country> findTopByOrderByLastRefreshedAtDesc();
 
     List<Country> findTop5ByOrderByEstimatedGdpDesc();
@@ -0,0 +1,22 @@
+package com.country.countryAPI.repo;
+
+import com.country.countryAPI.model.RefreshJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface RefreshJobRepository extends JpaRepository<RefreshJob, String> {
+    Optional<RefreshJob> findFirstByStateInAndSubmittedAtAfterOrderBySubmittedAtDesc(Collection<RefreshJob.State> states,
+                                                                                    Instant submittedAfter);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshJob j WHERE j.submittedAt < :cutoff")
+    int deleteSubmittedBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,49 @@
+package com.country.countryAPI.repo;
+
+import com.country.countryAPI.model.RefreshLock;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+
+public interface RefreshLockRepository extends JpaRepository<RefreshLock, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM RefreshLock l WHERE l.name = :name")
+    Optional<RefreshLock> findByNameForUpdate(@Param("name") String name);
+
+    @Query("SELECT CURRENT_TIMESTAMP FROM RefreshLock l WHERE l.name = :name")
+    Optional<Timestamp> findDatabaseTime(@Param("name") String name);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE RefreshLock l SET l.owner = :owner, l.lockedUntil = :lockedUntil, l.lastStartedAt = :startedAt " +
+            "WHERE l.name = :name AND (l.owner IS NULL OR l.lockedUntil IS NULL OR l.lockedUntil < CURRENT_TIMESTAMP)")
+    int tryAcquire(@Param("name") String name, @Param("owner") String owner,
+                   @Param("startedAt") Instant startedAt, @Param("lockedUntil") Instant lockedUntil);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE RefreshLock l SET l.owner = :owner, l.lockedUntil = :lockedUntil, l.lastStartedAt = :startedAt " +
+            "WHERE l.name = :name AND (l.owner IS NULL OR l.lockedUntil IS NULL OR l.lockedUntil < CURRENT_TIMESTAMP) " +
+            "AND (l.lastStartedAt IS NULL OR l.lastStartedAt <= :dueBefore)")
+    int tryAcquireIfDue(@Param("name") String name, @Param("owner") String owner, @Param("startedAt") Instant startedAt,
+                        @Param("lockedUntil") Instant lockedUntil, @Param("dueBefore") Instant dueBefore);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE RefreshLock l SET l.lockedUntil = :lockedUntil WHERE l.name = :name AND l.owner = :owner")
+    int renew(@Param("name") String name, @Param("owner") String owner, @Param("lockedUntil") Instant lockedUntil);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE RefreshLock l SET l.owner = NULL, l.lockedUntil = NULL WHERE l.name = :name AND l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner);
+}
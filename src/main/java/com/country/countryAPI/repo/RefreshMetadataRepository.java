@@ -0,0 +1,27 @@
+package com.country.countryAPI.repo;
+
+import com.country.countryAPI.model.RefreshMetadata;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+public interface RefreshMetadataRepository extends JpaRepository<RefreshMetadata, Long> {
+
+    @Modifying
+    @Query("UPDATE RefreshMetadata m SET m.totalCountries = m.totalCountries + :inserted, m.lastRefreshedAt = :refreshedAt, " +
+            "m.refreshVersion = m.refreshVersion + 1 WHERE m.id = :id")
+    int recordRefresh(@Param("id") Long id, @Param("inserted") long inserted, @Param("refreshedAt") Instant refreshedAt);
+
+    @Modifying
+    @Query("UPDATE RefreshMetadata m SET m.totalCountries = m.totalCountries + :delta, " +
+            "m.refreshVersion = m.refreshVersion + 1 WHERE m.id = :id")
+    int adjustTotal(@Param("id") Long id, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE RefreshMetadata m SET m.lastRefreshedAt = CASE WHEN m.lastRefreshedAt IS NULL OR m.lastRefreshedAt < :touchedAt " +
+            "THEN :touchedAt ELSE m.lastRefreshedAt END, m.refreshVersion = m.refreshVersion + 1 WHERE m.id = :id")
+    int touch(@Param("id") Long id, @Param("touchedAt") Instant touchedAt);
+}
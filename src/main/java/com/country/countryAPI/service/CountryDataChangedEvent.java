@@ -0,0 +1,14 @@
+package com.country.countryAPI.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+public class CountryDataChangedEvent {
+    private final long refreshVersion;
+    private final long totalCountries;
+    private final Instant lastRefreshedAt;
+}
@@ -1,15 +1,18 @@
 package com.country.countryAPI.service;
 
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.web.client.RestTemplate;
 import com.country.countryAPI.model.Country;
 import com.country.countryAPI.repo.CountryRepository;
+import com.country.countryAPI.util.CountrySearchIndex;
 import com.country.countryAPI.util.ImageGenerator;
+import com.country.countryAPI.dto.BatchDeleteResponse;
 import com.country.countryAPI.dto.StatusResponse;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.data.domain.Sort;
@@ -39,6 +42,8 @@ public class CountryService {
     private static final String COUNTRIES_API_URL = "https://restcountries.com/v2/all?fields=name,alpha2Code,capital,region,population,flag,currencies";
     private static final String EXCHANGE_RATE_API_URL = "https://open.er-api.com/v6/latest/USD";
     private static final String IMAGE_PATH = "cache/summary.png";
+    private static final int MAX_BATCH_SIZE = 250;
+    private static final int MAX_SEARCH_RESULTS = 50;
 
     @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
     private int BATCH_SIZE;
@@ -47,7 +52,8 @@ public class CountryService {
     private final RestTemplate restTemplate;
     private final ImageGenerator imageGenerator;
     private final EntityManager entityManager;
-    private Instant lastRefreshedAt;
+    private final RefreshMetadataService refreshMetadataService;
+    private final CountrySearchIndex countrySearchIndex;
 
     public static class CountryApiDTO {
         public String name;
@@ -65,7 +71,6 @@ public class CountryService {
         public String base;
         public Map<String, Double> rates;
     }
-    @Scheduled(fixedRate = 3600000, initialDelay = 300000)
     @Transactional
     public StatusResponse refreshCountryData() {
         log.info("Starting country data refresh...");
@@ -149,9 +154,7 @@ public class CountryService {
             log.info("Country data update completed. {} new entities inserted and {} existing entities updated. Total affected: {}",
                     insertedCount, updatedCount, savedCount);
 
-            lastRefreshedAt = currentRefreshTime;
-
-            executeImageGenerationAndLogging(savedCount, currentRefreshTime);
+            refreshMetadataService.recordRefresh(insertedCount, currentRefreshTime);
 
             return new StatusResponse(savedCount, currentRefreshTime);
         } catch (RestClientException e) {
@@ -164,8 +167,7 @@ public class CountryService {
     }
     @Transactional
     public Country updateCountry(String name, Country updatedData) {
-        Country existing = countryRepository.findByNameIgnoreCase(name)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Country not found: " + name));
+        Country existing = getCountryByName(name);
         if (updatedData.getCapital() != null) existing.setCapital(updatedData.getCapital());
         if (updatedData.getRegion() != null) existing.setRegion(updatedData.getRegion());
         if (updatedData.getPopulation() != null) existing.setPopulation(updatedData.getPopulation());
@@ -174,7 +176,9 @@ public class CountryService {
         if (updatedData.getEstimatedGdp() != null) existing.setEstimatedGdp(updatedData.getEstimatedGdp());
         if (updatedData.getFlagUrl() != null) existing.setFlagUrl(updatedData.getFlagUrl());
         existing.setLastRefreshedAt(Instant.now());
-        return countryRepository.save(existing);
+        Country saved = countryRepository.save(existing);
+        refreshMetadataService.recordCountryChange(0, saved.getLastRefreshedAt());
+        return saved;
     }
     public List<Country> getCountriesByRegion(String region) {
         if (region == null || region.isBlank()) {
@@ -187,6 +191,12 @@ public class CountryService {
         return countries;
     }
     @Async
+    @EventListener
+    public void onCountryDataChanged(CountryDataChangedEvent event) {
+        countrySearchIndex.rebuild(countryRepository.findAll(), event.getRefreshVersion());
+        if (event.getLastRefreshedAt() == null) return;
+        executeImageGenerationAndLogging((int) event.getTotalCountries(), event.getLastRefreshedAt());
+    }
     public void executeImageGenerationAndLogging(int count, Instant refreshTime) {
         List<Country> topFiveGdp = countryRepository.findTop5ByOrderByEstimatedGdpDesc();
         imageGenerator.generateSummaryImage(count, refreshTime, topFiveGdp);
@@ -237,20 +247,90 @@ public class CountryService {
         return countryRepository.findAll(spec, sort);
     }
     public Country getCountryByName(String name) {
-        return countryRepository.findByNameIgnoreCase(name)
+        return countryRepository.findByNameKey(Country.normalizeName(name))
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Country not found: " + name));
     }
+    public List<Country> searchCountries(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be empty");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SEARCH_RESULTS);
+        }
+        return countrySearchIndex.search(query, limit);
+    }
+    public Country getCountryByAlpha2Code(String alpha2Code) {
+        if (alpha2Code == null || !alpha2Code.trim().matches("[A-Za-z]{2}")) {
+            throw new IllegalArgumentException("Alpha-2 code must be exactly two letters");
+        }
+        return countryRepository.findByAlpha2Code(Country.normalizeAlpha2Code(alpha2Code))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Country not found for code: " + alpha2Code));
+    }
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillNameKeys() {
+        List<Country> missingKeys = countryRepository.findByNameKeyIsNull();
+        if (missingKeys.isEmpty()) return;
+        missingKeys.forEach(c -> c.setNameKey(Country.normalizeName(c.getName())));
+        countryRepository.saveAll(missingKeys);
+        log.info("Backfilled name keys for {} countries.", missingKeys.size());
+    }
+    public List<Country> getCountriesByNamesOrCodes(List<String> identifiers) {
+        Set<String> keys = normalizeBatch(identifiers);
+        Set<String> alpha2Codes = keys.stream()
+                .filter(k -> k.length() == 2)
+                .map(Country::normalizeAlpha2Code)
+                .collect(Collectors.toSet());
+        Map<String, Country> byNameKey = new HashMap<>();
+        Map<String, Country> byAlpha2Code = new HashMap<>();
+        for (Country country : countryRepository.findByNameKeyInOrAlpha2CodeIn(keys, alpha2Codes)) {
+            byNameKey.put(country.getNameKey(), country);
+            if (country.getAlpha2Code() != null) byAlpha2Code.put(country.getAlpha2Code(), country);
+        }
+        Set<Country> ordered = new LinkedHashSet<>();
+        for (String key : keys) {
+            Country country = byNameKey.get(key);
+            if (country == null) country = byAlpha2Code.get(Country.normalizeAlpha2Code(key));
+            if (country != null) ordered.add(country);
+        }
+        return new ArrayList<>(ordered);
+    }
     @Transactional
     public void deleteCountryByName(String name) {
-        Country country = getCountryByName(name);
-        countryRepository.delete(country);
+        int deleted = countryRepository.deleteByNameKey(Country.normalizeName(name));
+        if (deleted == 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Country not found: " + name);
+        }
+        refreshMetadataService.recordCountryChange(-deleted, null);
     }
-    public StatusResponse getStatus() {
-        if (lastRefreshedAt == null) {
-            countryRepository.findTopByOrderByLastRefreshedAtDesc().ifPresent(c -> this.lastRefreshedAt = c.getLastRefreshedAt());
+    @Transactional
+    public BatchDeleteResponse deleteCountriesByName(List<String> names) {
+        Set<String> keys = normalizeBatch(names);
+        int deleted = countryRepository.deleteByNameKeyIn(keys);
+        if (deleted > 0) {
+            refreshMetadataService.recordCountryChange(-deleted, null);
+        }
+        log.info("Batch delete removed {} of {} requested countries.", deleted, keys.size());
+        return new BatchDeleteResponse(keys.size(), deleted);
+    }
+    private Set<String> normalizeBatch(List<String> identifiers) {
+        if (identifiers == null || identifiers.isEmpty()) {
+            throw new IllegalArgumentException("At least one country name or code is required");
         }
-        long count = countryRepository.count();
-        return new StatusResponse(count, lastRefreshedAt);
+        if (identifiers.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch size must not exceed " + MAX_BATCH_SIZE);
+        }
+        Set<String> keys = new LinkedHashSet<>();
+        for (String identifier : identifiers) {
+            if (identifier != null && !identifier.isBlank()) keys.add(Country.normalizeName(identifier));
+        }
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("At least one country name or code is required");
+        }
+        return keys;
+    }
+    public StatusResponse getStatus() {
+        return refreshMetadataService.getStatus();
     }
     public Resource getSummaryImage() throws FileNotFoundException {
         try {
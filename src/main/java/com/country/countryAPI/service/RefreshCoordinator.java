@@ -0,0 +1,125 @@
+package com.country.countryAPI.service;
+
+import com.country.countryAPI.model.RefreshLock;
+import com.country.countryAPI.repo.RefreshLockRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshCoordinator {
+
+    @Value("${country.refresh.lease-ms:600000}")
+    private long leaseMillis;
+
+    @Value("${country.refresh.interval-ms:3600000}")
+    private long scheduledIntervalMillis;
+
+    @Value("${country.node-id:}")
+    private String configuredNodeId;
+
+    private final RefreshLockRepository refreshLockRepository;
+    private final RefreshMetadataService refreshMetadataService;
+    private final CountryService countryService;
+    private final TaskScheduler taskScheduler;
+    private String nodeId;
+
+    @PostConstruct
+    void initNodeId() {
+        if (configuredNodeId != null && !configuredNodeId.isBlank()) {
+            nodeId = configuredNodeId;
+            return;
+        }
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown-host";
+        }
+        nodeId = host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+    public String getNodeId() {
+        return nodeId;
+    }
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureLockRow() {
+        if (refreshLockRepository.existsById(RefreshLock.REFRESH_LOCK_NAME)) return;
+        try {
+            refreshLockRepository.save(new RefreshLock(RefreshLock.REFRESH_LOCK_NAME));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Refresh lock row was created concurrently by another node.");
+        }
+    }
+    public RefreshResult refresh(boolean scheduled) {
+        String leaseToken = tryAcquireLease(scheduled);
+        if (leaseToken == null) {
+            if (scheduled) {
+                log.info("Scheduled refresh is not due yet or the refresh lease is held elsewhere; skipping.");
+            } else {
+                log.info("Refresh lease is held by another refresh; skipping.");
+            }
+            return RefreshResult.skipped(refreshMetadataService.getStatus());
+        }
+        Duration renewEvery = Duration.ofMillis(Math.max(leaseMillis / 3, 1000));
+        ScheduledFuture<?> renewal = taskScheduler.scheduleAtFixedRate(
+                () -> renewLease(leaseToken), Instant.now().plus(renewEvery), renewEvery);
+        try {
+            return RefreshResult.completed(countryService.refreshCountryData());
+        } finally {
+            renewal.cancel(false);
+            refreshLockRepository.release(RefreshLock.REFRESH_LOCK_NAME, leaseToken);
+        }
+    }
+    // Expiry is compared against and derived from the database clock, so node clock skew cannot shorten a lease.
+    // The start is recorded on the row in the same update, so only a refresh that got the lease counts as started.
+    // Every replica runs the scheduled refresh, so it also requires the last start on the shared row to be about one
+    // interval old; a tenth of the interval is allowed for drift between the replicas' schedules.
+    private String tryAcquireLease(boolean scheduled) {
+        Optional<Instant> now = databaseTime();
+        if (now.isEmpty()) {
+            ensureLockRow();
+            now = databaseTime();
+            if (now.isEmpty()) return null;
+        }
+        String leaseToken = nodeId + "/" + UUID.randomUUID();
+        Instant lockedUntil = now.get().plusMillis(leaseMillis);
+        int acquired;
+        if (scheduled) {
+            Instant dueBefore = now.get().minusMillis(scheduledIntervalMillis - scheduledIntervalMillis / 10);
+            acquired = refreshLockRepository.tryAcquireIfDue(RefreshLock.REFRESH_LOCK_NAME, leaseToken, now.get(), lockedUntil, dueBefore);
+        } else {
+            acquired = refreshLockRepository.tryAcquire(RefreshLock.REFRESH_LOCK_NAME, leaseToken, now.get(), lockedUntil);
+        }
+        return acquired == 1 ? leaseToken : null;
+    }
+    private void renewLease(String leaseToken) {
+        try {
+            Optional<Instant> lockedUntil = databaseTime().map(now -> now.plusMillis(leaseMillis));
+            if (lockedUntil.isEmpty() || refreshLockRepository.renew(RefreshLock.REFRESH_LOCK_NAME, leaseToken, lockedUntil.get()) == 0) {
+                log.warn("Refresh lease {} was lost while refreshing.", leaseToken);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to renew refresh lease {}: {}", leaseToken, e.getMessage());
+        }
+    }
+    private Optional<Instant> databaseTime() {
+        return refreshLockRepository.findDatabaseTime(RefreshLock.REFRESH_LOCK_NAME).map(Timestamp::toInstant);
+    }
+}
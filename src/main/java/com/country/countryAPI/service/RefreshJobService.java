@@ -0,0 +1,143 @@
+package com.country.countryAPI.service;
+
+import com.country.countryAPI.dto.RefreshJobResponse;
+import com.country.countryAPI.dto.StatusResponse;
+import com.country.countryAPI.exception.RefreshThrottledException;
+import com.country.countryAPI.model.RefreshJob;
+import com.country.countryAPI.repo.RefreshJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+@Slf4j
+public class RefreshJobService {
+
+    private static final Set<RefreshJob.State> ACTIVE_STATES = EnumSet.of(RefreshJob.State.PENDING, RefreshJob.State.RUNNING);
+    private static final Duration JOB_RETENTION = Duration.ofDays(1);
+
+    @Value("${country.refresh.lease-ms:600000}")
+    private long leaseMillis;
+
+    @Value("${country.refresh.scheduled-enabled:true}")
+    private boolean scheduledRefreshEnabled;
+
+    private final RefreshCoordinator refreshCoordinator;
+    private final RefreshRateLimiter refreshRateLimiter;
+    private final RefreshJobRepository refreshJobRepository;
+    private final TaskExecutor refreshExecutor;
+    private Submission inFlight;
+
+    public RefreshJobService(RefreshCoordinator refreshCoordinator, RefreshRateLimiter refreshRateLimiter,
+                             RefreshJobRepository refreshJobRepository,
+                             @Qualifier("refreshExecutor") TaskExecutor refreshExecutor) {
+        this.refreshCoordinator = refreshCoordinator;
+        this.refreshRateLimiter = refreshRateLimiter;
+        this.refreshJobRepository = refreshJobRepository;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    public record Submission(RefreshJob job, CompletableFuture<RefreshJob> completion) {
+    }
+
+    @Scheduled(fixedRateString = "${country.refresh.interval-ms:3600000}", initialDelay = 300000)
+    public void scheduledRefresh() {
+        if (!scheduledRefreshEnabled) return;
+        submit(false);
+    }
+    // Client requests go through the rate limiter; the scheduled refresh is gated on the shared last start instead.
+    public synchronized Submission submit(boolean rateLimited) {
+        if (inFlight != null && !inFlight.completion().isDone()) {
+            log.info("Coalescing refresh request into in-flight refresh {}.", inFlight.job().getId());
+            return inFlight;
+        }
+        Instant now = Instant.now();
+        Optional<RefreshJob> remote = refreshJobRepository.findFirstByStateInAndSubmittedAtAfterOrderBySubmittedAtDesc(
+                ACTIVE_STATES, now.minusMillis(leaseMillis));
+        if (remote.isPresent()) {
+            log.info("Refresh {} is already active on node {}.", remote.get().getId(), remote.get().getNodeId());
+            return new Submission(remote.get(), CompletableFuture.completedFuture(remote.get()));
+        }
+        if (rateLimited) {
+            long retryAfterMillis = refreshRateLimiter.tryAcquire();
+            if (retryAfterMillis > 0) throw new RefreshThrottledException(retryAfterMillis);
+        }
+        refreshJobRepository.deleteSubmittedBefore(now.minus(JOB_RETENTION));
+
+        RefreshJob job = new RefreshJob();
+        job.setId(UUID.randomUUID().toString());
+        job.setState(RefreshJob.State.PENDING);
+        job.setNodeId(refreshCoordinator.getNodeId());
+        job.setSubmittedAt(now);
+        RefreshJob saved = refreshJobRepository.save(job);
+
+        Submission submission = new Submission(saved, new CompletableFuture<>());
+        inFlight = submission;
+        refreshExecutor.execute(() -> run(submission, !rateLimited));
+        return submission;
+    }
+    public Optional<RefreshJobResponse> getJob(String id) {
+        return refreshJobRepository.findById(id).map(this::toResponse);
+    }
+    public RefreshJobResponse toResponse(RefreshJob job) {
+        StatusResponse status = job.getTotalCountries() != null
+                ? new StatusResponse(job.getTotalCountries(), job.getLastRefreshedAt())
+                : null;
+        return new RefreshJobResponse(job.getId(), job.getState().name(), job.getSubmittedAt(),
+                job.getCompletedAt(), status, job.getError());
+    }
+    private void run(Submission submission, boolean scheduled) {
+        RefreshJob job = submission.job();
+        try {
+            job.setState(RefreshJob.State.RUNNING);
+            job = refreshJobRepository.save(job);
+            RefreshResult result = refreshCoordinator.refresh(scheduled);
+            if (result.isSkipped()) {
+                log.info("Refresh {} skipped: the lease is held elsewhere or the scheduled refresh is not due.", job.getId());
+                submission.completion().complete(finish(job, RefreshJob.State.SKIPPED, result.getStatus(), null));
+                return;
+            }
+            refreshRateLimiter.recordSuccess();
+            submission.completion().complete(finish(job, RefreshJob.State.SUCCEEDED, result.getStatus(), null));
+        } catch (ResponseStatusException e) {
+            if (e.getStatusCode().isSameCodeAs(HttpStatus.SERVICE_UNAVAILABLE)) {
+                refreshRateLimiter.recordUpstreamFailure();
+            }
+            log.error("Refresh {} failed: {}", job.getId(), e.getReason());
+            finish(job, RefreshJob.State.FAILED, null, e.getReason());
+            submission.completion().completeExceptionally(e);
+        } catch (RuntimeException e) {
+            log.error("Refresh {} failed: {}", job.getId(), e.getMessage(), e);
+            finish(job, RefreshJob.State.FAILED, null, e.getMessage());
+            submission.completion().completeExceptionally(e);
+        }
+    }
+    private RefreshJob finish(RefreshJob job, RefreshJob.State state, StatusResponse status, String error) {
+        job.setState(state);
+        job.setCompletedAt(Instant.now());
+        if (status != null) {
+            job.setTotalCountries(status.getTotalCountries());
+            job.setLastRefreshedAt(status.getLastRefreshedAt());
+        }
+        job.setError(error != null && error.length() > 1000 ? error.substring(0, 1000) : error);
+        try {
+            return refreshJobRepository.save(job);
+        } catch (RuntimeException e) {
+            log.error("Failed to record outcome of refresh {}: {}", job.getId(), e.getMessage());
+            return job;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.country.countryAPI.service;
+
+import com.country.countryAPI.dto.StatusResponse;
+import com.country.countryAPI.model.Country;
+import com.country.countryAPI.model.RefreshMetadata;
+import com.country.countryAPI.repo.CountryRepository;
+import com.country.countryAPI.repo.RefreshMetadataRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshMetadataService {
+
+    private final RefreshMetadataRepository refreshMetadataRepository;
+    private final CountryRepository countryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicReference<VersionedStatus> status = new AtomicReference<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        ensureMetadataRow();
+        reload();
+    }
+    @Scheduled(fixedDelayString = "${country.status.sync-interval-ms:5000}",
+            initialDelayString = "${country.status.sync-interval-ms:5000}")
+    public void reload() {
+        refreshMetadataRepository.findById(RefreshMetadata.SINGLETON_ID).ifPresent(this::publish);
+    }
+    public StatusResponse getStatus() {
+        VersionedStatus current = status.get();
+        if (current == null) {
+            initialize();
+            current = status.get();
+        }
+        return current != null ? current.status() : new StatusResponse(0, null);
+    }
+    // Inserts are applied as a delta so deletes committed while the refresh runs are not overwritten.
+    @Transactional
+    public void recordRefresh(long insertedCount, Instant refreshedAt) {
+        int updated = refreshMetadataRepository.recordRefresh(RefreshMetadata.SINGLETON_ID, insertedCount, refreshedAt);
+        if (updated == 0) {
+            refreshMetadataRepository.save(new RefreshMetadata(RefreshMetadata.SINGLETON_ID, countryRepository.count(), refreshedAt, 1));
+        }
+        afterCommit(this::reload);
+    }
+    @Transactional
+    public void recordCountryChange(long delta, Instant changedAt) {
+        if (delta != 0) refreshMetadataRepository.adjustTotal(RefreshMetadata.SINGLETON_ID, delta);
+        if (changedAt != null) refreshMetadataRepository.touch(RefreshMetadata.SINGLETON_ID, changedAt);
+        afterCommit(this::reload);
+    }
+    private void publish(RefreshMetadata metadata) {
+        VersionedStatus next = new VersionedStatus(metadata.getRefreshVersion(),
+                new StatusResponse(metadata.getTotalCountries(), metadata.getLastRefreshedAt()));
+        VersionedStatus previous = status.getAndAccumulate(next,
+                (current, candidate) -> current == null || candidate.version() >= current.version() ? candidate : current);
+        long previousVersion = previous != null ? previous.version() : -1;
+        if (next.version() > previousVersion) {
+            log.info("Country data version changed from {} to {}.", previousVersion, next.version());
+            eventPublisher.publishEvent(new CountryDataChangedEvent(
+                    metadata.getRefreshVersion(), metadata.getTotalCountries(), metadata.getLastRefreshedAt()));
+        }
+    }
+    private void ensureMetadataRow() {
+        if (refreshMetadataRepository.existsById(RefreshMetadata.SINGLETON_ID)) return;
+        long count = countryRepository.count();
+        Instant lastRefreshedAt = countryRepository.findTopByOrderByLastRefreshedAtDesc()
+                .map(Country::getLastRefreshedAt)
+                .orElse(null);
+        try {
+            refreshMetadataRepository.save(new RefreshMetadata(RefreshMetadata.SINGLETON_ID, count, lastRefreshedAt, 0));
+            log.info("Seeded refresh metadata with {} countries.", count);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Refresh metadata row was seeded concurrently by another node.");
+        }
+    }
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+    private record VersionedStatus(long version, StatusResponse status) {
+    }
+}
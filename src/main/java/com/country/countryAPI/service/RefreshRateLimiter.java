@@ -0,0 +1,95 @@
+package com.country.countryAPI.service;
+
+import com.country.countryAPI.model.RefreshLock;
+import com.country.countryAPI.repo.RefreshLockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+@Component
+@Slf4j
+public class RefreshRateLimiter {
+
+    private final RefreshLockRepository refreshLockRepository;
+    private final int capacity;
+    private final double refillPerMilli;
+    private final long minIntervalMillis;
+    private final long maxBackoffMillis;
+    private final Clock clock;
+
+    @Autowired
+    public RefreshRateLimiter(RefreshLockRepository refreshLockRepository,
+                              @Value("${country.refresh.bucket-capacity:5}") int capacity,
+                              @Value("${country.refresh.refill-per-hour:12}") int refillPerHour,
+                              @Value("${country.refresh.min-interval-ms:60000}") long minIntervalMillis,
+                              @Value("${country.refresh.max-backoff-ms:900000}") long maxBackoffMillis) {
+        this(refreshLockRepository, capacity, refillPerHour, minIntervalMillis, maxBackoffMillis, Clock.systemUTC());
+    }
+    public RefreshRateLimiter(RefreshLockRepository refreshLockRepository, int capacity, int refillPerHour,
+                              long minIntervalMillis, long maxBackoffMillis, Clock clock) {
+        if (capacity < 1 || refillPerHour < 1) {
+            throw new IllegalArgumentException("Refresh bucket capacity and refill rate must be positive");
+        }
+        this.refreshLockRepository = refreshLockRepository;
+        this.capacity = capacity;
+        this.refillPerMilli = refillPerHour / 3_600_000.0;
+        this.minIntervalMillis = minIntervalMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.clock = clock;
+    }
+    // Returns 0 when a client-triggered refresh may start, otherwise the milliseconds to wait.
+    // The bucket, last start and backoff live on the shared refresh_lock row, locked for the update,
+    // so the limits hold across all replicas.
+    @Transactional
+    public long tryAcquire() {
+        Optional<RefreshLock> row = refreshLockRepository.findByNameForUpdate(RefreshLock.REFRESH_LOCK_NAME);
+        if (row.isEmpty()) {
+            log.warn("Refresh lock row is missing; allowing refresh without rate limiting.");
+            return 0;
+        }
+        RefreshLock state = row.get();
+        long now = clock.millis();
+        if (state.getLastStartedAt() != null) {
+            long earliest = state.getLastStartedAt().toEpochMilli() + minIntervalMillis + backoffOf(state);
+            if (now < earliest) return earliest - now;
+        }
+        double tokens = availableTokens(state, now);
+        if (tokens < 1) {
+            return (long) Math.ceil((1 - tokens) / refillPerMilli);
+        }
+        state.setTokens(tokens - 1);
+        state.setTokensUpdatedAt(Instant.ofEpochMilli(now));
+        state.setLastStartedAt(Instant.ofEpochMilli(now));
+        return 0;
+    }
+    @Transactional
+    public void recordSuccess() {
+        update(state -> state.setBackoffMillis(0L));
+    }
+    @Transactional
+    public void recordUpstreamFailure() {
+        update(state -> {
+            long backoff = backoffOf(state);
+            long base = Math.max(minIntervalMillis, 1000);
+            state.setBackoffMillis(backoff == 0 ? base : Math.min(backoff * 2, maxBackoffMillis));
+        });
+    }
+    private void update(Consumer<RefreshLock> change) {
+        refreshLockRepository.findByNameForUpdate(RefreshLock.REFRESH_LOCK_NAME).ifPresent(change);
+    }
+    private long backoffOf(RefreshLock state) {
+        return state.getBackoffMillis() != null ? state.getBackoffMillis() : 0;
+    }
+    private double availableTokens(RefreshLock state, long now) {
+        if (state.getTokens() == null || state.getTokensUpdatedAt() == null) return capacity;
+        long elapsed = Math.max(0, now - state.getTokensUpdatedAt().toEpochMilli());
+        return Math.min(capacity, state.getTokens() + elapsed * refillPerMilli);
+    }
+}
@@ -0,0 +1,17 @@
+package com.country.countryAPI.service;
+
+import com.country.countryAPI.dto.StatusResponse;
+import lombok.Value;
+
+@Value
+public class RefreshResult {
+    StatusResponse status;
+    boolean skipped;
+
+    public static RefreshResult completed(StatusResponse status) {
+        return new RefreshResult(status, false);
+    }
+    public static RefreshResult skipped(StatusResponse currentStatus) {
+        return new RefreshResult(currentStatus, true);
+    }
+}
@@ -0,0 +1,107 @@
+package com.country.countryAPI.util;
+
+import com.country.countryAPI.model.Country;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.regex.Pattern;
+
+@Component
+@Slf4j
+public class CountrySearchIndex {
+    private static final double NAME_WEIGHT = 1.0;
+    private static final double ALPHA2_WEIGHT = 0.9;
+    private static final double CAPITAL_WEIGHT = 0.8;
+    private static final double MIN_SCORE = 0.25;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{Alnum}]+");
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public synchronized void rebuild(List<Country> countries, long version) {
+        if (version < snapshot.version()) {
+            log.debug("Ignoring search index rebuild for version {}; already at {}.", version, snapshot.version());
+            return;
+        }
+        List<Country> indexed = List.copyOf(countries);
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < indexed.size(); i++) {
+            Country c = indexed.get(i);
+            addEntry(entries, i, c.getName(), NAME_WEIGHT);
+            addEntry(entries, i, c.getAlpha2Code(), ALPHA2_WEIGHT);
+            addEntry(entries, i, c.getCapital(), CAPITAL_WEIGHT);
+        }
+        Map<String, List<Integer>> postingLists = new HashMap<>();
+        for (int e = 0; e < entries.size(); e++) {
+            for (String gram : entries.get(e).grams) {
+                postingLists.computeIfAbsent(gram, g -> new ArrayList<>()).add(e);
+            }
+        }
+        Map<String, int[]> postings = new HashMap<>(postingLists.size() * 2);
+        postingLists.forEach((gram, ids) -> postings.put(gram, ids.stream().mapToInt(Integer::intValue).toArray()));
+
+        snapshot = new Snapshot(version, indexed, entries.toArray(new Entry[0]), postings);
+        log.info("Rebuilt country search index with {} countries and {} trigrams.", indexed.size(), postings.size());
+    }
+    public List<Country> search(String query, int limit) {
+        Snapshot current = snapshot;
+        String text = normalize(query);
+        if (text.isEmpty() || current.countries.isEmpty()) return List.of();
+
+        Set<String> queryGrams = trigrams(text);
+        int[] common = new int[current.entries.length];
+        for (String gram : queryGrams) {
+            int[] ids = current.postings.get(gram);
+            if (ids == null) continue;
+            for (int id : ids) common[id]++;
+        }
+        double[] best = new double[current.countries.size()];
+        for (int e = 0; e < common.length; e++) {
+            if (common[e] == 0) continue;
+            Entry entry = current.entries[e];
+            double score = entry.weight * 2.0 * common[e] / (queryGrams.size() + entry.grams.size());
+            if (entry.text.equals(text)) score += entry.weight;
+            else if (entry.text.startsWith(text)) score += entry.weight / 2;
+            if (score > best[entry.country]) best[entry.country] = score;
+        }
+        List<Integer> matches = new ArrayList<>();
+        for (int i = 0; i < best.length; i++) {
+            if (best[i] >= MIN_SCORE) matches.add(i);
+        }
+        matches.sort(Comparator.<Integer>comparingDouble(i -> -best[i])
+                .thenComparing(i -> current.countries.get(i).getName()));
+
+        List<Country> results = new ArrayList<>(Math.min(limit, matches.size()));
+        for (int i = 0; i < matches.size() && i < limit; i++) {
+            results.add(current.countries.get(matches.get(i)));
+        }
+        return results;
+    }
+    public int size() {
+        return snapshot.countries.size();
+    }
+    static String normalize(String value) {
+        if (value == null) return "";
+        String stripped = COMBINING_MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll("");
+    }
+    private static Set<String> trigrams(String text) {
+        String padded = "  " + text + " ";
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+    private static void addEntry(List<Entry> entries, int country, String value, double weight) {
+        String text = normalize(value);
+        if (!text.isEmpty()) entries.add(new Entry(country, text, weight, trigrams(text)));
+    }
+    private record Entry(int country, String text, double weight, Set<String> grams) {
+    }
+    private record Snapshot(long version, List<Country> countries, Entry[] entries, Map<String, int[]> postings) {
+        static final Snapshot EMPTY = new Snapshot(-1, List.of(), new Entry[0], Map.of());
+    }
+}
@@ -5,12 +5,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@SpringBootTest
+@SpringBootTest(properties = "country.refresh.min-interval-ms=0")
 @AutoConfigureMockMvc
 public class CountryIntegrationTest {
 
@@ -22,27 +24,78 @@ public class CountryIntegrationTest {
 
     @Test
     void testRefreshEndpoint() throws Exception {
-        mockMvc.perform(post("/countries/refresh"))
+        MvcResult result = mockMvc.perform(post("/countries/refresh"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.totalCountries").exists())
                 .andExpect(jsonPath("$.lastRefreshedAt").exists());
     }
     @Test
+    void testAsyncRefreshEndpoint() throws Exception {
+        MvcResult result = mockMvc.perform(post("/countries/refresh").param("async", "true"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.id").exists())
+                .andReturn();
+        String id = objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+        mockMvc.perform(get("/countries/refresh/" + id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").exists());
+    }
+    @Test
     void testGetAllCountries() throws Exception {
         mockMvc.perform(get("/countries"))
                 .andExpect(status().isOk());
     }
     @Test
+    void testGetAllCountriesAsCbor() throws Exception {
+        mockMvc.perform(get("/countries").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR));
+    }
+    @Test
     void testGetCountryByNameNotFound() throws Exception {
         mockMvc.perform(get("/countries/NonexistentCountry"))
                 .andExpect(status().isNotFound());
     }
     @Test
+    void testSearchRequiresQuery() throws Exception {
+        mockMvc.perform(get("/countries/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+    @Test
+    void testGetCountryByAlpha2CodeNotFound() throws Exception {
+        mockMvc.perform(get("/countries/code/ZZ"))
+                .andExpect(status().isNotFound());
+    }
+    @Test
+    void testGetCountryByInvalidAlpha2Code() throws Exception {
+        mockMvc.perform(get("/countries/code/ZZZ"))
+                .andExpect(status().isBadRequest());
+    }
+    @Test
     void testDeleteCountryByName() throws Exception {
         mockMvc.perform(delete("/countries/Testland"))
                 .andExpect(status().isNotFound());
     }
     @Test
+    void testBatchGetUnknownCountries() throws Exception {
+        mockMvc.perform(post("/countries/batch-get")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"Testland\", \"ZZ\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+    }
+    @Test
+    void testBatchDeleteRequiresNames() throws Exception {
+        mockMvc.perform(post("/countries/batch-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+    @Test
     void testStatusEndpoint() throws Exception {
         mockMvc.perform(get("/countries/status"))
                 .andExpect(status().isOk())
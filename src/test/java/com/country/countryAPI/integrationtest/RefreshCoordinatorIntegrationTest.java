@@ -0,0 +1,80 @@
+package com.country.countryAPI.integrationtest;
+
+import com.country.countryAPI.dto.StatusResponse;
+import com.country.countryAPI.repo.RefreshLockRepository;
+import com.country.countryAPI.service.CountryService;
+import com.country.countryAPI.service.RefreshCoordinator;
+import com.country.countryAPI.service.RefreshMetadataService;
+import com.country.countryAPI.service.RefreshResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+public class RefreshCoordinatorIntegrationTest {
+
+    @Autowired
+    private RefreshLockRepository refreshLockRepository;
+
+    private final CountryService countryService = mock(CountryService.class);
+    private final RefreshMetadataService refreshMetadataService = mock(RefreshMetadataService.class);
+    private final TaskScheduler taskScheduler = mock(TaskScheduler.class);
+    private RefreshCoordinator nodeA;
+    private RefreshCoordinator nodeB;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(mock(ScheduledFuture.class)).when(taskScheduler)
+                .scheduleAtFixedRate(any(Runnable.class), any(Instant.class), any(Duration.class));
+        when(refreshMetadataService.getStatus()).thenReturn(new StatusResponse(250, null));
+        nodeA = coordinator("node-a");
+        nodeB = coordinator("node-b");
+        nodeA.ensureLockRow();
+    }
+    @Test
+    void testScheduledRefreshRunsOnceAcrossNodesSharingTheLockRow() {
+        when(countryService.refreshCountryData()).thenReturn(new StatusResponse(250, Instant.now()));
+
+        RefreshResult first = nodeA.refresh(true);
+        RefreshResult second = nodeB.refresh(true);
+
+        assertFalse(first.isSkipped());
+        assertTrue(second.isSkipped());
+        verify(countryService, times(1)).refreshCountryData();
+    }
+    @Test
+    void testRefreshIsSkippedWhileAnotherNodeHoldsTheLease() {
+        RefreshResult[] concurrent = new RefreshResult[1];
+        when(countryService.refreshCountryData()).thenAnswer(invocation -> {
+            concurrent[0] = nodeB.refresh(false);
+            return new StatusResponse(250, Instant.now());
+        });
+
+        RefreshResult result = nodeA.refresh(false);
+
+        assertFalse(result.isSkipped());
+        assertTrue(concurrent[0].isSkipped());
+        verify(countryService, times(1)).refreshCountryData();
+    }
+    private RefreshCoordinator coordinator(String nodeId) {
+        RefreshCoordinator coordinator = new RefreshCoordinator(refreshLockRepository, refreshMetadataService,
+                countryService, taskScheduler);
+        ReflectionTestUtils.setField(coordinator, "leaseMillis", 600_000L);
+        ReflectionTestUtils.setField(coordinator, "scheduledIntervalMillis", 3_600_000L);
+        ReflectionTestUtils.setField(coordinator, "configuredNodeId", nodeId);
+        ReflectionTestUtils.invokeMethod(coordinator, "initNodeId");
+        return coordinator;
+    }
+}
@@ -0,0 +1,106 @@
+package com.country.countryAPI.unit;
+
+import com.country.countryAPI.config.CborConfig;
+import com.country.countryAPI.model.Country;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CborConfigTest {
+
+    private static final Instant REFRESHED_AT = Instant.parse("2025-10-22T18:00:00Z");
+
+    private final ObjectMapper cborMapper = new CborConfig()
+            .cborHttpMessageConverter(new Jackson2ObjectMapperBuilder())
+            .getObjectMapper();
+
+    @Test
+    void testCountryIsWrittenAsPositionalArrayWithFixedPointValues() throws Exception {
+        byte[] cbor = cborMapper.writeValueAsBytes(List.of(nigeria(new BigDecimal("25767448125.20"))));
+        JsonNode row = cborMapper.readTree(cbor).get(0);
+
+        assertTrue(row.isArray());
+        assertEquals(11, row.size());
+        assertEquals(7L, row.get(0).asLong());
+        assertEquals("Nigeria", row.get(1).asText());
+        assertEquals("Abuja", row.get(2).asText());
+        assertEquals("Africa", row.get(3).asText());
+        assertEquals(206139589L, row.get(4).asLong());
+        assertEquals("NGN", row.get(5).asText());
+        assertEquals("NG", row.get(6).asText());
+        assertTrue(row.get(7).canConvertToLong());
+        assertEquals(16002300L, row.get(7).longValue());
+        assertEquals(2576744812520L, row.get(8).longValue());
+        assertEquals("https://flagcdn.com/ng.svg", row.get(9).asText());
+        assertEquals(REFRESHED_AT.toEpochMilli(), row.get(10).longValue());
+    }
+    @Test
+    void testCborIsAtLeastTwoAndAHalfTimesSmallerThanJsonForACountryList() throws Exception {
+        Instant refreshedAt = Instant.parse("2025-10-22T18:00:00.123456Z");
+        List<Country> countries = List.of(
+                country(1L, "Afghanistan", "Kabul", "Asia", 40218234L, "AFN", "AF", "66.3245", "42156412.55", refreshedAt),
+                country(2L, "Albania", "Tirana", "Europe", 2837743L, "ALL", "AL", "92.1200", "54121412.12", refreshedAt),
+                country(3L, "United States of America", "Washington, D.C.", "Americas", 329484123L, "USD", "US",
+                        "1.0000", "470112004010.11", refreshedAt),
+                country(4L, "Germany", "Berlin", "Europe", 83240525L, "EUR", "DE", "0.9200", "10012345678.90", refreshedAt),
+                country(5L, "Brazil", "Brasilia", "Americas", 212559409L, "BRL", "BR", "5.4300", "61234567890.12", refreshedAt),
+                country(6L, "Japan", "Tokyo", "Asia", 125836021L, "JPY", "JP", "149.8800", "1234567890.12", refreshedAt),
+                country(7L, "Nigeria", "Abuja", "Africa", 206139589L, "NGN", "NG", "1600.2300", "25767448125.20", refreshedAt),
+                country(8L, "Tuvalu", "Funafuti", "Oceania", 11792L, "AUD", "TV", "1.5300", "11234567.80", refreshedAt));
+
+        byte[] cbor = cborMapper.writeValueAsBytes(countries);
+        byte[] json = Jackson2ObjectMapperBuilder.json().build().writeValueAsBytes(countries);
+
+        // Names, capitals and flag URLs are stored verbatim, so the ratio sits just under 3x for real data.
+        assertTrue(json.length * 10 >= cbor.length * 25,
+                "CBOR " + cbor.length + " bytes vs JSON " + json.length + " bytes");
+    }
+    @Test
+    void testValueOutsideLongRangeFallsBackToDecimal() throws Exception {
+        BigDecimal hugeGdp = new BigDecimal("99999999999999999.99");
+        byte[] cbor = cborMapper.writeValueAsBytes(List.of(nigeria(hugeGdp)));
+        JsonNode row = cborMapper.readTree(cbor).get(0);
+
+        assertEquals(0, hugeGdp.compareTo(row.get(8).decimalValue()));
+        assertEquals(16002300L, row.get(7).longValue());
+    }
+    private Country country(Long id, String name, String capital, String region, Long population, String currencyCode,
+                            String alpha2Code, String exchangeRate, String estimatedGdp, Instant refreshedAt) {
+        Country country = new Country();
+        country.setId(id);
+        country.setName(name);
+        country.setCapital(capital);
+        country.setRegion(region);
+        country.setPopulation(population);
+        country.setCurrencyCode(currencyCode);
+        country.setAlpha2Code(alpha2Code);
+        country.setExchangeRate(new BigDecimal(exchangeRate));
+        country.setEstimatedGdp(new BigDecimal(estimatedGdp));
+        country.setFlagUrl("https://flagcdn.com/" + alpha2Code.toLowerCase() + ".svg");
+        country.setLastRefreshedAt(refreshedAt);
+        return country;
+    }
+    private Country nigeria(BigDecimal estimatedGdp) {
+        Country country = new Country();
+        country.setId(7L);
+        country.setName("Nigeria");
+        country.setNameKey("nigeria");
+        country.setCapital("Abuja");
+        country.setRegion("Africa");
+        country.setPopulation(206139589L);
+        country.setCurrencyCode("NGN");
+        country.setAlpha2Code("NG");
+        country.setExchangeRate(new BigDecimal("1600.2300"));
+        country.setEstimatedGdp(estimatedGdp);
+        country.setFlagUrl("https://flagcdn.com/ng.svg");
+        country.setLastRefreshedAt(REFRESHED_AT);
+        return country;
+    }
+}
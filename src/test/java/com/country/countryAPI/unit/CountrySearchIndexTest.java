@@ -0,0 +1,79 @@
+package com.country.countryAPI.unit;
+
+import com.country.countryAPI.model.Country;
+import com.country.countryAPI.util.CountrySearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CountrySearchIndexTest {
+
+    private CountrySearchIndex countrySearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        countrySearchIndex = new CountrySearchIndex();
+        countrySearchIndex.rebuild(List.of(
+                country("C\u00f4te d'Ivoire", "CI", "Yamoussoukro"),
+                country("Vietnam", "VN", "Hanoi"),
+                country("Bolivia (Plurinational State of)", "BO", "Sucre"),
+                country("France", "FR", "Paris"),
+                country("Nigeria", "NG", "Abuja"),
+                country("Niger", "NE", "Niamey")
+        ), 2);
+    }
+    @Test
+    void testAccentsAndPunctuationAreIgnored() {
+        List<Country> results = countrySearchIndex.search("Cote d'Ivoire", 5);
+        assertFalse(results.isEmpty());
+        assertEquals("CI", results.get(0).getAlpha2Code());
+    }
+    @Test
+    void testSpacingVariantsMatch() {
+        List<Country> results = countrySearchIndex.search("Viet Nam", 5);
+        assertFalse(results.isEmpty());
+        assertEquals("Vietnam", results.get(0).getName());
+    }
+    @Test
+    void testPartialLowercaseNameMatches() {
+        List<Country> results = countrySearchIndex.search("bolivia", 5);
+        assertFalse(results.isEmpty());
+        assertEquals("BO", results.get(0).getAlpha2Code());
+    }
+    @Test
+    void testAlpha2CodeAndCapitalMatch() {
+        assertEquals("France", countrySearchIndex.search("fr", 5).get(0).getName());
+        assertEquals("Nigeria", countrySearchIndex.search("Abuja", 5).get(0).getName());
+    }
+    @Test
+    void testExactNameRanksAbovePrefixMatch() {
+        List<Country> results = countrySearchIndex.search("Niger", 5);
+        assertEquals("Niger", results.get(0).getName());
+        assertEquals("Nigeria", results.get(1).getName());
+    }
+    @Test
+    void testLimitAndNoMatch() {
+        assertEquals(1, countrySearchIndex.search("Niger", 1).size());
+        assertTrue(countrySearchIndex.search("xyzzy", 5).isEmpty());
+    }
+    @Test
+    void testOlderRebuildDoesNotReplaceNewerSnapshot() {
+        countrySearchIndex.rebuild(List.of(country("Atlantis", "AT", "Poseidonia")), 1);
+
+        assertEquals(6, countrySearchIndex.size());
+        assertTrue(countrySearchIndex.search("Atlantis", 5).isEmpty());
+
+        countrySearchIndex.rebuild(List.of(country("Atlantis", "AT", "Poseidonia")), 3);
+        assertEquals("Atlantis", countrySearchIndex.search("Atlantis", 5).get(0).getName());
+    }
+    private Country country(String name, String alpha2Code, String capital) {
+        Country country = new Country();
+        country.setName(name);
+        country.setAlpha2Code(alpha2Code);
+        country.setCapital(capital);
+        return country;
+    }
+}
@@ -1,11 +1,14 @@
 package com.country.countryAPI.unit;
 
+import com.country.countryAPI.dto.BatchDeleteResponse;
 import com.country.countryAPI.exception.ValidationException;
 import com.country.countryAPI.model.Country;
 import com.country.countryAPI.repo.CountryRepository;
 import com.country.countryAPI.service.CountryService;
+import com.country.countryAPI.service.RefreshMetadataService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -13,8 +16,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class CountryServiceTest {
@@ -25,6 +31,9 @@ public class CountryServiceTest {
     @Mock
     private CountryRepository countryRepository;
 
+    @Mock
+    private RefreshMetadataService refreshMetadataService;
+
     @Test
     void testGdpCalculationRandomness() throws Exception {
         Method calculateGdp = CountryService.class.getDeclaredMethod("calculateEstimatedGdp", Long.class, Double.class, Random.class);
@@ -88,6 +97,62 @@ public class CountryServiceTest {
         Exception exception = assertThrows(ValidationException.class, () -> validateCountry(invalidCountry));
         assertTrue(exception.getMessage().contains("Invalid country data"));
     }
+    @Test
+    @SuppressWarnings("unchecked")
+    void testBatchGetResolvesNamesAndCodesInRequestOrder() {
+        Country france = country("France", "FR");
+        Country nigeria = country("Nigeria", "NG");
+        Country ghana = country("Ghana", "GH");
+        when(countryRepository.findByNameKeyInOrAlpha2CodeIn(anyCollection(), anyCollection()))
+                .thenReturn(List.of(france, nigeria, ghana));
+
+        List<Country> result = countryService.getCountriesByNamesOrCodes(
+                List.of("ng", "France", " FRANCE ", "fr", "Ghana", "Atlantis"));
+
+        assertEquals(List.of(nigeria, france, ghana), result);
+        ArgumentCaptor<Collection<String>> nameKeys = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Collection<String>> alpha2Codes = ArgumentCaptor.forClass(Collection.class);
+        verify(countryRepository).findByNameKeyInOrAlpha2CodeIn(nameKeys.capture(), alpha2Codes.capture());
+        assertEquals(Set.of("ng", "france", "fr", "ghana", "atlantis"), new HashSet<>(nameKeys.getValue()));
+        assertEquals(Set.of("NG", "FR"), new HashSet<>(alpha2Codes.getValue()));
+    }
+    @Test
+    void testBatchGetRejectsOversizedBatch() {
+        List<String> names = IntStream.range(0, 251).mapToObj(i -> "Country" + i).collect(Collectors.toList());
+
+        assertThrows(IllegalArgumentException.class, () -> countryService.getCountriesByNamesOrCodes(names));
+        verifyNoInteractions(countryRepository);
+    }
+    @Test
+    @SuppressWarnings("unchecked")
+    void testBatchDeleteReportsDeletedCountAndUpdatesMetadata() {
+        when(countryRepository.deleteByNameKeyIn(anyCollection())).thenReturn(2);
+
+        BatchDeleteResponse response = countryService.deleteCountriesByName(List.of("France", "france", "Ghana", "Atlantis"));
+
+        assertEquals(3, response.getRequested());
+        assertEquals(2, response.getDeleted());
+        ArgumentCaptor<Collection<String>> nameKeys = ArgumentCaptor.forClass(Collection.class);
+        verify(countryRepository).deleteByNameKeyIn(nameKeys.capture());
+        assertEquals(Set.of("france", "ghana", "atlantis"), new HashSet<>(nameKeys.getValue()));
+        verify(refreshMetadataService).recordCountryChange(-2, null);
+    }
+    @Test
+    void testBatchDeleteWithNoMatchesLeavesMetadataUntouched() {
+        when(countryRepository.deleteByNameKeyIn(anyCollection())).thenReturn(0);
+
+        BatchDeleteResponse response = countryService.deleteCountriesByName(List.of("Atlantis"));
+
+        assertEquals(0, response.getDeleted());
+        verify(refreshMetadataService, never()).recordCountryChange(anyLong(), any());
+    }
+    private Country country(String name, String alpha2Code) {
+        Country country = new Country();
+        country.setName(name);
+        country.setNameKey(Country.normalizeName(name));
+        country.setAlpha2Code(alpha2Code);
+        return country;
+    }
     private void validateCountry(Country country) {
         Map<String, String> errors = new HashMap<>();
         if (country.getName() == null || country.getName().isBlank()) {
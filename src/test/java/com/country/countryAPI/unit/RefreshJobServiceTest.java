@@ -0,0 +1,112 @@
+package com.country.countryAPI.unit;
+
+import com.country.countryAPI.dto.StatusResponse;
+import com.country.countryAPI.model.RefreshJob;
+import com.country.countryAPI.repo.RefreshJobRepository;
+import com.country.countryAPI.service.RefreshCoordinator;
+import com.country.countryAPI.service.RefreshJobService;
+import com.country.countryAPI.service.RefreshRateLimiter;
+import com.country.countryAPI.service.RefreshResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RefreshJobServiceTest {
+
+    private RefreshJobService refreshJobService;
+
+    @Mock
+    private RefreshCoordinator refreshCoordinator;
+
+    @Mock
+    private RefreshRateLimiter refreshRateLimiter;
+
+    @Mock
+    private RefreshJobRepository refreshJobRepository;
+
+    @BeforeEach
+    void setUp() {
+        refreshJobService = new RefreshJobService(refreshCoordinator, refreshRateLimiter, refreshJobRepository,
+                new SyncTaskExecutor());
+    }
+    @Test
+    void testSkippedRefreshHasOwnStateAndLeavesLimiterAlone() throws Exception {
+        StatusResponse current = new StatusResponse(250, Instant.parse("2025-01-01T00:00:00Z"));
+        noActiveJobs();
+        when(refreshRateLimiter.tryAcquire()).thenReturn(0L);
+        when(refreshCoordinator.refresh(false)).thenReturn(RefreshResult.skipped(current));
+
+        RefreshJob job = refreshJobService.submit(true).completion().get(5, TimeUnit.SECONDS);
+
+        assertEquals(RefreshJob.State.SKIPPED, job.getState());
+        assertEquals(250L, job.getTotalCountries());
+        verify(refreshRateLimiter, never()).recordSuccess();
+        verify(refreshRateLimiter, never()).recordUpstreamFailure();
+    }
+    @Test
+    void testCompletedRefreshIsPersistedAndClearsBackoff() throws Exception {
+        Instant refreshedAt = Instant.now();
+        noActiveJobs();
+        when(refreshRateLimiter.tryAcquire()).thenReturn(0L);
+        when(refreshCoordinator.refresh(false)).thenReturn(RefreshResult.completed(new StatusResponse(250, refreshedAt)));
+
+        RefreshJob job = refreshJobService.submit(true).completion().get(5, TimeUnit.SECONDS);
+
+        assertEquals(RefreshJob.State.SUCCEEDED, job.getState());
+        assertEquals(refreshedAt, job.getLastRefreshedAt());
+        verify(refreshJobRepository, atLeast(3)).save(any(RefreshJob.class));
+        verify(refreshRateLimiter).recordSuccess();
+    }
+    @Test
+    void testRefreshActiveOnAnotherNodeIsReturnedInsteadOfStartingOne() {
+        RefreshJob remote = new RefreshJob();
+        remote.setId("remote-job");
+        remote.setState(RefreshJob.State.RUNNING);
+        remote.setNodeId("node-b");
+        remote.setSubmittedAt(Instant.now());
+        when(refreshJobRepository.findFirstByStateInAndSubmittedAtAfterOrderBySubmittedAtDesc(anyCollection(), any()))
+                .thenReturn(Optional.of(remote));
+
+        RefreshJobService.Submission submission = refreshJobService.submit(true);
+
+        assertSame(remote, submission.job());
+        assertTrue(submission.completion().isDone());
+        verifyNoInteractions(refreshRateLimiter, refreshCoordinator);
+        verify(refreshJobRepository, never()).save(any());
+    }
+    @Test
+    void testJobStateIsReadFromTheDatabase() {
+        RefreshJob stored = new RefreshJob("job-1", RefreshJob.State.SUCCEEDED, "node-b", Instant.now(),
+                Instant.now(), 250L, Instant.now(), null);
+        when(refreshJobRepository.findById("job-1")).thenReturn(Optional.of(stored));
+
+        assertEquals("SUCCEEDED", refreshJobService.getJob("job-1").orElseThrow().getState());
+        assertEquals(250, refreshJobService.getJob("job-1").orElseThrow().getStatus().getTotalCountries());
+    }
+    @Test
+    void testScheduledRefreshDoesNotTouchLimiterBeforeTheLease() throws Exception {
+        noActiveJobs();
+        when(refreshCoordinator.refresh(true)).thenReturn(RefreshResult.skipped(new StatusResponse(250, null)));
+
+        RefreshJob job = refreshJobService.submit(false).completion().get(5, TimeUnit.SECONDS);
+
+        assertEquals(RefreshJob.State.SKIPPED, job.getState());
+        verifyNoInteractions(refreshRateLimiter);
+    }
+    private void noActiveJobs() {
+        when(refreshJobRepository.findFirstByStateInAndSubmittedAtAfterOrderBySubmittedAtDesc(anyCollection(), any()))
+                .thenReturn(Optional.empty());
+        when(refreshJobRepository.save(any(RefreshJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+}
@@ -0,0 +1,104 @@
+package com.country.countryAPI.unit;
+
+import com.country.countryAPI.dto.StatusResponse;
+import com.country.countryAPI.model.RefreshMetadata;
+import com.country.countryAPI.repo.CountryRepository;
+import com.country.countryAPI.repo.RefreshMetadataRepository;
+import com.country.countryAPI.service.CountryDataChangedEvent;
+import com.country.countryAPI.service.RefreshMetadataService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RefreshMetadataServiceTest {
+
+    @InjectMocks
+    private RefreshMetadataService refreshMetadataService;
+
+    @Mock
+    private RefreshMetadataRepository refreshMetadataRepository;
+
+    @Mock
+    private CountryRepository countryRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void testStatusIsServedFromMemoryAfterInitialize() {
+        Instant refreshedAt = Instant.parse("2025-01-01T00:00:00Z");
+        when(refreshMetadataRepository.existsById(RefreshMetadata.SINGLETON_ID)).thenReturn(true);
+        when(refreshMetadataRepository.findById(RefreshMetadata.SINGLETON_ID))
+                .thenReturn(Optional.of(new RefreshMetadata(RefreshMetadata.SINGLETON_ID, 250, refreshedAt, 4)));
+
+        refreshMetadataService.initialize();
+        StatusResponse first = refreshMetadataService.getStatus();
+        StatusResponse second = refreshMetadataService.getStatus();
+
+        assertEquals(250, first.getTotalCountries());
+        assertEquals(refreshedAt, first.getLastRefreshedAt());
+        assertSame(first, second);
+        verify(refreshMetadataRepository, times(1)).findById(RefreshMetadata.SINGLETON_ID);
+        verifyNoInteractions(countryRepository);
+    }
+    @Test
+    void testDataChangedEventIsPublishedOncePerVersion() {
+        when(refreshMetadataRepository.findById(RefreshMetadata.SINGLETON_ID))
+                .thenReturn(Optional.of(new RefreshMetadata(RefreshMetadata.SINGLETON_ID, 10, Instant.now(), 1)))
+                .thenReturn(Optional.of(new RefreshMetadata(RefreshMetadata.SINGLETON_ID, 10, Instant.now(), 1)))
+                .thenReturn(Optional.of(new RefreshMetadata(RefreshMetadata.SINGLETON_ID, 9, Instant.now(), 2)));
+
+        refreshMetadataService.reload();
+        refreshMetadataService.reload();
+        refreshMetadataService.reload();
+
+        verify(eventPublisher, times(2)).publishEvent(any(CountryDataChangedEvent.class));
+        assertEquals(9, refreshMetadataService.getStatus().getTotalCountries());
+    }
+    @Test
+    void testMissingMetadataRowIsSeededFromCountries() {
+        when(refreshMetadataRepository.existsById(RefreshMetadata.SINGLETON_ID)).thenReturn(false);
+        when(countryRepository.count()).thenReturn(3L);
+        when(countryRepository.findTopByOrderByLastRefreshedAtDesc()).thenReturn(Optional.empty());
+        when(refreshMetadataRepository.findById(RefreshMetadata.SINGLETON_ID))
+                .thenReturn(Optional.of(new RefreshMetadata(RefreshMetadata.SINGLETON_ID, 3, null, 0)));
+
+        StatusResponse status = refreshMetadataService.getStatus();
+
+        assertEquals(3, status.getTotalCountries());
+        verify(refreshMetadataRepository).save(argThat(RefreshMetadata::isNew));
+    }
+    @Test
+    void testOlderMetadataDoesNotOverwriteNewerStatus() {
+        when(refreshMetadataRepository.findById(RefreshMetadata.SINGLETON_ID))
+                .thenReturn(Optional.of(new RefreshMetadata(RefreshMetadata.SINGLETON_ID, 8, Instant.now(), 3)))
+                .thenReturn(Optional.of(new RefreshMetadata(RefreshMetadata.SINGLETON_ID, 10, Instant.now(), 2)));
+
+        refreshMetadataService.reload();
+        refreshMetadataService.reload();
+
+        assertEquals(8, refreshMetadataService.getStatus().getTotalCountries());
+        verify(eventPublisher, times(1)).publishEvent(any(CountryDataChangedEvent.class));
+    }
+    @Test
+    void testRefreshAppliesInsertedCountriesAsDelta() {
+        Instant refreshedAt = Instant.parse("2025-01-01T00:00:00Z");
+        when(refreshMetadataRepository.recordRefresh(RefreshMetadata.SINGLETON_ID, 2, refreshedAt)).thenReturn(1);
+
+        refreshMetadataService.recordRefresh(2, refreshedAt);
+
+        verify(refreshMetadataRepository).recordRefresh(RefreshMetadata.SINGLETON_ID, 2, refreshedAt);
+        verify(refreshMetadataRepository, never()).save(any(RefreshMetadata.class));
+        verifyNoInteractions(countryRepository);
+    }
+}
@@ -0,0 +1,101 @@
+package com.country.countryAPI.unit;
+
+import com.country.countryAPI.model.RefreshLock;
+import com.country.countryAPI.repo.RefreshLockRepository;
+import com.country.countryAPI.service.RefreshRateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class RefreshRateLimiterTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final RefreshLock sharedRow = new RefreshLock(RefreshLock.REFRESH_LOCK_NAME);
+    private final RefreshLockRepository refreshLockRepository = mock(RefreshLockRepository.class);
+
+    @BeforeEach
+    void setUp() {
+        when(refreshLockRepository.findByNameForUpdate(RefreshLock.REFRESH_LOCK_NAME)).thenReturn(Optional.of(sharedRow));
+    }
+
+    @Test
+    void testMinimumIntervalBetweenRefreshes() {
+        RefreshRateLimiter limiter = new RefreshRateLimiter(refreshLockRepository, 5, 60, 10_000, 60_000, clock);
+
+        assertEquals(0, limiter.tryAcquire());
+        clock.advance(4_000);
+        assertEquals(6_000, limiter.tryAcquire());
+        clock.advance(6_000);
+        assertEquals(0, limiter.tryAcquire());
+    }
+    @Test
+    void testTokenBucketLimitsBursts() {
+        RefreshRateLimiter limiter = new RefreshRateLimiter(refreshLockRepository, 2, 60, 0, 60_000, clock);
+
+        assertEquals(0, limiter.tryAcquire());
+        assertEquals(0, limiter.tryAcquire());
+        assertEquals(60_000, limiter.tryAcquire());
+        clock.advance(60_000);
+        assertEquals(0, limiter.tryAcquire());
+    }
+    @Test
+    void testUpstreamFailuresBackOffUntilSuccess() {
+        RefreshRateLimiter limiter = new RefreshRateLimiter(refreshLockRepository, 10, 600, 1_000, 4_000, clock);
+
+        assertEquals(0, limiter.tryAcquire());
+        limiter.recordUpstreamFailure();
+        limiter.recordUpstreamFailure();
+        limiter.recordUpstreamFailure();
+        assertEquals(5_000, limiter.tryAcquire());
+
+        limiter.recordSuccess();
+        assertEquals(1_000, limiter.tryAcquire());
+    }
+    @Test
+    void testLimitsAreSharedAcrossNodesThroughTheLockRow() {
+        RefreshRateLimiter nodeA = new RefreshRateLimiter(refreshLockRepository, 5, 60, 10_000, 60_000, clock);
+        RefreshRateLimiter nodeB = new RefreshRateLimiter(refreshLockRepository, 5, 60, 10_000, 60_000, clock);
+
+        assertEquals(0, nodeA.tryAcquire());
+        assertEquals(10_000, nodeB.tryAcquire());
+
+        nodeA.recordUpstreamFailure();
+        clock.advance(10_000);
+        assertEquals(10_000, nodeB.tryAcquire());
+
+        nodeB.recordSuccess();
+        assertEquals(0, nodeB.tryAcquire());
+        assertEquals(0L, sharedRow.getBackoffMillis());
+    }
+    private static class MutableClock extends Clock {
+        private long millis = 1_000_000;
+
+        void advance(long delta) {
+            millis += delta;
+        }
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+        @Override
+        public long millis() {
+            return millis;
+        }
+    }
+}